@@ -25,6 +25,7 @@ import simpledb.index.planner.IndexUpdatePlanner;
 public class SimpleDB {
    public static int BUFFER_SIZE = 8;
    public static String LOG_FILE = "simpledb.log";
+   public static boolean OPTIMIZE_PLANNING = false;
    
    private static FileMgr     fm;
    private static BufferMgr   bm;
@@ -97,11 +98,24 @@ public class SimpleDB {
    
    /**
     * Creates a planner for SQL commands.
-    * To change how the planner works, modify this method.
+    * By default the planner uses the basic query and update planners.
+    * If {@link #OPTIMIZE_PLANNING} is set to true, it uses
+    * the heuristic query planner and the index-aware update planner
+    * instead. Note that the heuristic query planner does not expand
+    * views, so queries over views are not supported when the flag is on.
     * @return the system's planner for SQL commands
-    */public static Planner planner() {
-      QueryPlanner  qplanner = new BasicQueryPlanner();
-      UpdatePlanner uplanner = new BasicUpdatePlanner();
+    */
+   public static Planner planner() {
+      QueryPlanner  qplanner;
+      UpdatePlanner uplanner;
+      if (OPTIMIZE_PLANNING) {
+         qplanner = new HeuristicQueryPlanner();
+         uplanner = new IndexUpdatePlanner();
+      }
+      else {
+         qplanner = new BasicQueryPlanner();
+         uplanner = new BasicUpdatePlanner();
+      }
       return new Planner(qplanner, uplanner);
    }
 }